@@ -10,6 +10,7 @@ import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.os.Bundle;
 import android.util.Log;
+import android.widget.TextView;
 import android.widget.Toast;
 
 
@@ -32,6 +33,7 @@ import java.util.List;
 public class MainActivity extends AppCompatActivity {
     RecyclerView recyclerView; // RecyclerView shows the list of products
     ProductAdapter adapter;  // Adapter to connect product data to the RecyclerView
+    TextView summaryText;    // Shows the running count and total of selected products
 
 
 
@@ -61,6 +63,10 @@ public class MainActivity extends AppCompatActivity {
         adapter = new ProductAdapter(productList);
         recyclerView.setAdapter(adapter);
 
+        // Keep the summary line in sync with the user's selection
+        summaryText = findViewById(R.id.summaryMain);
+        adapter.getSelectionSummary().addListener(summary -> summaryText.setText(SummaryFormatter.describe(this, summary)));
+
         // When "Next" button clicked
         findViewById(R.id.nextButton).setOnClickListener(v -> {
             Log.d("MainActivity", "Next button clicked!");
@@ -7,6 +7,7 @@ import android.net.Uri;
 import android.os.Bundle;
 import android.util.Log;
 import android.widget.Button;
+import android.widget.TextView;
 import android.widget.Toast;
 
 
@@ -19,6 +20,7 @@ import com.example.productviewapp.R;
 import com.example.productviewapp.adapters.ProductAdapter;
 import com.example.productviewapp.database.ProductDatabaseHelper;
 import com.example.productviewapp.models.Product;
+import com.example.productviewapp.models.SelectionSummary;
 
 
 import java.util.ArrayList;
@@ -27,6 +29,7 @@ public class SecondActivity extends AppCompatActivity {
     ProductAdapter adapter; // Adapter to bind products to RecyclerView
     Button emailButton; // Button to trigger email sending
     ArrayList<Product> fullProductList = new ArrayList<>(); // List of fully-loaded products with all details from database
+    TextView summaryText; // Shows the count and total of the products being emailed
 
 
     @Override
@@ -59,10 +62,19 @@ public class SecondActivity extends AppCompatActivity {
         recyclerView = findViewById(R.id.recyclerViewSecond);
         recyclerView.setLayoutManager(new LinearLayoutManager(this));
 
-        // Create adapter using the loaded products
-        adapter = new ProductAdapter(fullProductList);
+        // Create a read-only adapter (no checkboxes): every loaded product is emailed,
+        // so its summary holds exactly fullProductList
+        adapter = new ProductAdapter(fullProductList, false);
+        SelectionSummary selectionSummary = adapter.getSelectionSummary();
+        for (Product p : fullProductList) {
+            selectionSummary.add(p);
+        }
         recyclerView.setAdapter(adapter);
 
+        // Show the totals of the products being emailed
+        summaryText = findViewById(R.id.summarySecond);
+        selectionSummary.addListener(summary -> summaryText.setText(SummaryFormatter.describe(this, summary)));
+
         // Find email button and set its click behavior
         emailButton = findViewById(R.id.emailButton);
         emailButton.setOnClickListener(v -> sendEmailWithProducts());
@@ -81,11 +93,16 @@ public class SecondActivity extends AppCompatActivity {
         StringBuilder emailBody = new StringBuilder("Selected Products:\n\n");
         for (Product p : fullProductList) {
             emailBody.append(p.getName())
-                    .append(" - $").append(p.getPrice())
+                    .append(" - ").append(SelectionSummary.formatPrice(p.getPrice()))
                     .append("\n").append(p.getDescription())
                     .append("\n\n");
         }
 
+        // Totals come from the running summary instead of another pass over the list
+        SelectionSummary selectionSummary = adapter.getSelectionSummary();
+        emailBody.append("Total: ").append(SelectionSummary.formatCents(selectionSummary.getTotalCents())).append("\n");
+        SummaryFormatter.appendSellerTotals(emailBody, selectionSummary);
+
         // Email subject and body
         String subject = "My Selected Products";
         String body = emailBody.toString();
@@ -109,8 +126,9 @@ public class SecondActivity extends AppCompatActivity {
             // Show Confirmation
             Toast.makeText(this, "Email launched! Check your mail app to send.", Toast.LENGTH_LONG).show();
 
-            // Clear only the fullProductList (SecondActivity list)
+            // Clear the SecondActivity list and its totals
             fullProductList.clear();
+            selectionSummary.clear();
             adapter.notifyDataSetChanged();
 
             // Navigate back to MainActivity
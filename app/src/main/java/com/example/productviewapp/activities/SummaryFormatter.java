@@ -0,0 +1,56 @@
+package com.example.productviewapp.activities;
+
+/*
+ * SummaryFormatter turns a SelectionSummary into the text both screens show:
+ * the one-line summary under the lists and the per-seller lines in the email.
+ * Kept out of the models package so SelectionSummary stays free of Android UI code.
+ */
+
+import android.content.Context;
+
+import com.example.productviewapp.R;
+import com.example.productviewapp.models.SelectionSummary;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+public class SummaryFormatter {
+
+    static final String UNKNOWN_SELLER = "Unknown seller"; // Label for products saved without a seller
+
+    private SummaryFormatter() {}
+
+    /**
+     * Builds the one-line summary text: item count, total, and the cheapest and most expensive price.
+     * @param context Context used to load the string resources
+     * @param summary Current selection totals
+     * @return Display text for the summary line
+     */
+    public static String describe(Context context, SelectionSummary summary) {
+        if (summary.isEmpty()) {
+            return context.getString(R.string.selection_summary, 0, SelectionSummary.formatCents(0));
+        }
+        return context.getString(R.string.selection_summary_range, summary.getCount(),
+                SelectionSummary.formatCents(summary.getTotalCents()),
+                SelectionSummary.formatCents(summary.getMinPriceCents()),
+                SelectionSummary.formatCents(summary.getMaxPriceCents()));
+    }
+
+    /**
+     * Appends one "Seller: $x.xx" line per seller, sorted by seller name.
+     * Sorting happens here, once per email, so toggling a checkbox stays O(1).
+     * @param body    Email body being built
+     * @param summary Current selection totals
+     */
+    public static void appendSellerTotals(StringBuilder body, SelectionSummary summary) {
+        Map<String, Long> sorted = new TreeMap<>(Comparator.nullsLast(Comparator.<String>naturalOrder()));
+        sorted.putAll(summary.getSellerTotalsCents());
+        for (Map.Entry<String, Long> entry : sorted.entrySet()) {
+            body.append("  ").append(entry.getKey() != null ? entry.getKey() : UNKNOWN_SELLER)
+                    .append(": ").append(SelectionSummary.formatCents(entry.getValue()))
+                    .append("\n");
+        }
+    }
+}
@@ -12,6 +12,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 
 import com.example.productviewapp.models.Product;
+import com.example.productviewapp.models.SelectionSummary;
 import com.example.productviewapp.R;
 
 
@@ -21,22 +22,43 @@ import java.util.*;
 public class ProductAdapter extends RecyclerView.Adapter<ProductAdapter.ProductViewHolder> {
     private final List<Product> productList; // List of all products to display
 
-    private final List<Product> selectedList = new ArrayList<>();  // List of products that the user has selected (via checkbox)
+    private final SelectionSummary selectionSummary = new SelectionSummary(); // Products the user has selected (via checkbox) and their running totals
+
+    private final boolean selectable; // Whether rows show a checkbox the user can toggle
 
     /**
      * Constructor to create the adapter.
      * @param productList The products to display
      */
     public ProductAdapter(List<Product> productList) {
+        this(productList, true);
+    }
+
+    /**
+     * Constructor to create the adapter, optionally without checkboxes.
+     * @param productList The products to display
+     * @param selectable  false to hide the checkboxes (selection is then only changed in code)
+     */
+    public ProductAdapter(List<Product> productList, boolean selectable) {
         this.productList = productList;
+        this.selectable = selectable;
     }
 
     /**
      * Public method used to get products selected by the user.
-     * @return List of selected products
+     * @return List of selected products, in the order they were selected
      */
     public List<Product> getSelectedProducts() {
-        return selectedList;
+        return selectionSummary.getSelectedProducts();
+    }
+
+    /**
+     * Public method used to get the running totals of the selection.
+     * Screens can register a listener on it to show the totals as they change.
+     * @return Summary of selected products
+     */
+    public SelectionSummary getSelectionSummary() {
+        return selectionSummary;
     }
 
     /**
@@ -91,7 +113,7 @@ public class ProductAdapter extends RecyclerView.Adapter<ProductAdapter.ProductV
 
         // Set name, price, and description fields
         holder.name.setText(product.getName());
-        holder.price.setText("$" + product.getPrice());
+        holder.price.setText(SelectionSummary.formatPrice(product.getPrice()));
         holder.description.setText(product.getDescription());
         holder.seller.setText("Sold by: " + product.getSeller());
 
@@ -103,13 +125,19 @@ public class ProductAdapter extends RecyclerView.Adapter<ProductAdapter.ProductV
             holder.image.setImageResource(R.drawable.ic_launcher_background); // neutral fallback
         }
 
+        // Hide the checkbox on read-only lists
+        holder.selectBox.setVisibility(selectable ? View.VISIBLE : View.GONE);
+
+        // Detach the previous row's listener so recycling the view doesn't toggle the wrong product
+        holder.selectBox.setOnCheckedChangeListener(null);
+
         // Set the checkbox based on whether this product is selected
-        holder.selectBox.setChecked(selectedList.contains(product));
+        holder.selectBox.setChecked(selectionSummary.contains(product));
 
-        // Handle user checking/unchecking the box
+        // Handle user checking/unchecking the box; the summary ignores repeated events
         holder.selectBox.setOnCheckedChangeListener((buttonView, isChecked) -> {
-            if (isChecked) selectedList.add(product);
-            else selectedList.remove(product);
+            if (isChecked) selectionSummary.add(product);
+            else selectionSummary.remove(product);
         });
     }
 
@@ -0,0 +1,178 @@
+package com.example.productviewapp.models;
+
+/*
+ * The SelectionSummary class keeps running totals for the products a user has selected:
+ * item count, total price, cheapest/most expensive price and a subtotal per seller.
+ * Every select/deselect updates the totals directly, so screens never have to
+ * walk the selected list again to show them.
+ * Prices are kept in whole cents (long) so totals do not drift like double sums do.
+ * It also holds the selected products themselves, so it is the single source of truth for the selection.
+ */
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+public class SelectionSummary {
+
+    /**
+     * Callback used by screens that want to redraw whenever the totals change.
+     */
+    public interface OnSummaryChangedListener {
+        void onSummaryChanged(SelectionSummary summary);
+    }
+
+    private final Map<Integer, Product> selected = new LinkedHashMap<>();  // Product ID -> selected product, in selection order
+    private final TreeMap<Long, Integer> priceCounts = new TreeMap<>();    // Price in cents -> how many selected items have it (for min/max)
+    private final Map<String, Long> sellerTotals = new HashMap<>();        // Seller -> subtotal in cents
+    private final Map<String, Integer> sellerCounts = new HashMap<>();     // Seller -> number of selected items
+    private final List<OnSummaryChangedListener> listeners = new ArrayList<>();
+
+    private long totalCents; // Sum of all selected prices in cents
+
+    /**
+     * Converts a double price (as stored in Product) into whole cents.
+     * Uses the price's decimal form, so half-cent values like 1.005 round up as expected.
+     * @param price Price in dollars
+     * @return Price rounded half-up to the nearest cent
+     */
+    public static long toCents(double price) {
+        return BigDecimal.valueOf(price).setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Formats a double price for display, e.g. 549.9 -> "$549.90".
+     * @param price Price in dollars
+     * @return Formatted dollar string
+     */
+    public static String formatPrice(double price) {
+        return formatCents(toCents(price));
+    }
+
+    /**
+     * Formats a cents amount for display, e.g. 1999 -> "$19.99".
+     * @param cents Amount in cents
+     * @return Formatted dollar string
+     */
+    public static String formatCents(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long abs = Math.abs(cents);
+        return sign + "$" + (abs / 100) + "." + (abs % 100 < 10 ? "0" : "") + (abs % 100);
+    }
+
+    /**
+     * Adds a product to the totals.
+     * @param product The product that was selected
+     * @return true if the product was added, false if it was already counted
+     */
+    public boolean add(Product product) {
+        if (selected.containsKey(product.getId())) return false;
+        selected.put(product.getId(), product);
+
+        long cents = toCents(product.getPrice());
+        String seller = product.getSeller();
+
+        totalCents += cents;
+        priceCounts.merge(cents, 1, Integer::sum);
+        sellerTotals.merge(seller, cents, Long::sum);
+        sellerCounts.merge(seller, 1, Integer::sum);
+
+        notifyListeners();
+        return true;
+    }
+
+    /**
+     * Removes a product from the totals.
+     * @param product The product that was deselected
+     * @return true if the product was removed, false if it was not counted
+     */
+    public boolean remove(Product product) {
+        if (selected.remove(product.getId()) == null) return false;
+
+        long cents = toCents(product.getPrice());
+        String seller = product.getSeller();
+
+        totalCents -= cents;
+        decrement(priceCounts, cents);
+        decrement(sellerCounts, seller);
+        if (sellerCounts.containsKey(seller)) {
+            sellerTotals.put(seller, sellerTotals.get(seller) - cents);
+        } else {
+            sellerTotals.remove(seller); // Last item from this seller, drop the entry
+        }
+
+        notifyListeners();
+        return true;
+    }
+
+    /**
+     * Resets all totals, e.g. when the selected list is cleared.
+     */
+    public void clear() {
+        selected.clear();
+        priceCounts.clear();
+        sellerTotals.clear();
+        sellerCounts.clear();
+        totalCents = 0;
+        notifyListeners();
+    }
+
+    // Getter methods for the running totals
+    public int getCount() { return selected.size(); }
+    public boolean isEmpty() { return selected.isEmpty(); }
+    public boolean contains(Product product) { return selected.containsKey(product.getId()); }
+    public long getTotalCents() { return totalCents; }
+
+    /**
+     * @return Lowest selected price in cents, or 0 if nothing is selected
+     */
+    public long getMinPriceCents() { return priceCounts.isEmpty() ? 0 : priceCounts.firstKey(); }
+
+    /**
+     * @return Highest selected price in cents, or 0 if nothing is selected
+     */
+    public long getMaxPriceCents() { return priceCounts.isEmpty() ? 0 : priceCounts.lastKey(); }
+
+    /**
+     * @return Read-only map of seller name to subtotal in cents, in no particular order
+     */
+    public Map<String, Long> getSellerTotalsCents() {
+        return Collections.unmodifiableMap(sellerTotals);
+    }
+
+    /**
+     * @return Copy of the selected products, in the order they were selected
+     */
+    public List<Product> getSelectedProducts() {
+        return new ArrayList<>(selected.values());
+    }
+
+    /**
+     * Registers a listener and immediately tells it the current totals.
+     * @param listener Listener to notify on every change
+     */
+    public void addListener(OnSummaryChangedListener listener) {
+        listeners.add(listener);
+        listener.onSummaryChanged(this);
+    }
+
+    private void notifyListeners() {
+        for (OnSummaryChangedListener listener : listeners) {
+            listener.onSummaryChanged(this);
+        }
+    }
+
+    // Lowers a counter by one and removes the key once it reaches zero
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        int count = counts.get(key) - 1;
+        if (count == 0) counts.remove(key);
+        else counts.put(key, count);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.productviewapp.activities;
+
+import static org.junit.Assert.*;
+
+import com.example.productviewapp.models.Product;
+import com.example.productviewapp.models.SelectionSummary;
+
+import org.junit.Test;
+
+/**
+ * Local unit tests for the email lines built by SummaryFormatter.
+ */
+public class SummaryFormatterTest {
+
+    @Test
+    public void appendSellerTotals_sortsBySellerWithUnknownLast() {
+        SelectionSummary summary = new SelectionSummary();
+        summary.add(new Product(1, "A", "", "Walmart", 1.00, null));
+        summary.add(new Product(2, "B", "", null, 4.50, null));
+        summary.add(new Product(3, "C", "", "Amazon", 2.00, null));
+        summary.add(new Product(4, "D", "", "Target", 3.00, null));
+        summary.add(new Product(5, "E", "", "Amazon", 0.25, null));
+
+        StringBuilder body = new StringBuilder();
+        SummaryFormatter.appendSellerTotals(body, summary);
+
+        assertEquals("  Amazon: $2.25\n"
+                + "  Target: $3.00\n"
+                + "  Walmart: $1.00\n"
+                + "  " + SummaryFormatter.UNKNOWN_SELLER + ": $4.50\n", body.toString());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.productviewapp.models;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Local unit tests for SelectionSummary, checked against a brute-force recomputation.
+ */
+public class SelectionSummaryTest {
+
+    private static final String[] SELLERS = {"Amazon", "Target", "Walmart", "Ebay", "Ocean State Job Lot"};
+
+    @Test
+    public void formatCents_padsCents() {
+        assertEquals("$0.00", SelectionSummary.formatCents(0));
+        assertEquals("$7.05", SelectionSummary.formatCents(705));
+        assertEquals("$549.99", SelectionSummary.formatCents(54999));
+        assertEquals("-$0.10", SelectionSummary.formatCents(-10));
+    }
+
+    @Test
+    public void toCents_avoidsDoubleDrift() {
+        assertEquals(18901, SelectionSummary.toCents(189.01));
+        assertEquals(14901, SelectionSummary.toCents(149.01));
+        assertEquals(30, SelectionSummary.toCents(0.1 + 0.2));
+    }
+
+    @Test
+    public void toCents_roundsHalfCentsUp() {
+        assertEquals(101, SelectionSummary.toCents(1.005));
+        assertEquals(29, SelectionSummary.toCents(0.285));
+        assertEquals(1, SelectionSummary.toCents(0.005));
+    }
+
+    @Test
+    public void formatPrice_usesTwoDecimals() {
+        assertEquals("$549.90", SelectionSummary.formatPrice(549.9));
+        assertEquals("$1.01", SelectionSummary.formatPrice(1.005));
+    }
+
+    @Test
+    public void addAndRemove_ignoreRepeatedEvents() {
+        SelectionSummary summary = new SelectionSummary();
+        Product cam = new Product(1, "Cam", "", "Amazon", 99.99, null);
+
+        assertTrue(summary.add(cam));
+        assertFalse(summary.add(cam));
+        assertEquals(1, summary.getCount());
+        assertEquals(9999, summary.getTotalCents());
+
+        assertTrue(summary.remove(cam));
+        assertFalse(summary.remove(cam));
+        assertTrue(summary.isEmpty());
+        assertEquals(0, summary.getTotalCents());
+        assertEquals(0, summary.getMinPriceCents());
+        assertTrue(summary.getSellerTotalsCents().isEmpty());
+    }
+
+    @Test
+    public void selectedProducts_keepSelectionOrder() {
+        SelectionSummary summary = new SelectionSummary();
+        Product tv = new Product(8, "TV", "", "Amazon", 569.99, null);
+        Product pool = new Product(6, "Pool", "", "Ocean State Job Lot", 489.99, null);
+        Product watch = new Product(10, "Watch", "", "Walmart", 549.99, null);
+
+        summary.add(tv);
+        summary.add(pool);
+        summary.add(watch);
+        summary.remove(pool);
+        summary.add(pool);
+
+        assertEquals(Arrays.asList(tv, watch, pool), summary.getSelectedProducts());
+    }
+
+    @Test
+    public void sellerTotals_allowMissingSeller() {
+        SelectionSummary summary = new SelectionSummary();
+        Product noSeller = new Product(1, "A", "", null, 1.00, null);
+
+        assertTrue(summary.add(noSeller));
+        assertEquals(Long.valueOf(100), summary.getSellerTotalsCents().get(null));
+        assertTrue(summary.remove(noSeller));
+        assertTrue(summary.getSellerTotalsCents().isEmpty());
+    }
+
+    @Test
+    public void listener_isNotifiedOnChange() {
+        SelectionSummary summary = new SelectionSummary();
+        int[] calls = {0};
+        summary.addListener(s -> calls[0]++);
+        assertEquals(1, calls[0]); // Called once with the current totals on registration
+
+        Product tv = new Product(8, "TV", "", "Amazon", 569.99, null);
+        summary.add(tv);
+        summary.add(tv); // Already counted, no change
+        summary.remove(tv);
+        assertEquals(3, calls[0]);
+    }
+
+    @Test
+    public void randomToggles_matchBruteForce() {
+        Random random = new Random(26);
+        List<Product> catalog = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            double price = random.nextInt(100000) / 100.0; // $0.00 - $999.99
+            catalog.add(new Product(i, "Product " + i, "", SELLERS[random.nextInt(SELLERS.length)], price, null));
+        }
+
+        SelectionSummary summary = new SelectionSummary();
+        boolean[] selected = new boolean[catalog.size()];
+
+        for (int toggle = 0; toggle < 1_000_000; toggle++) {
+            int index = random.nextInt(catalog.size());
+            Product product = catalog.get(index);
+            if (selected[index]) assertTrue(summary.remove(product));
+            else assertTrue(summary.add(product));
+            selected[index] = !selected[index];
+
+            assertMatchesBruteForce(catalog, selected, summary);
+        }
+    }
+
+    // Recomputes every aggregate from scratch and compares it to the running totals
+    private static void assertMatchesBruteForce(List<Product> catalog, boolean[] selected, SelectionSummary summary) {
+        int count = 0;
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        Map<String, Long> sellerTotals = new HashMap<>();
+        List<Integer> selectedIds = new ArrayList<>();
+
+        for (int i = 0; i < catalog.size(); i++) {
+            if (!selected[i]) continue;
+            Product p = catalog.get(i);
+            long cents = SelectionSummary.toCents(p.getPrice());
+            count++;
+            total += cents;
+            min = Math.min(min, cents);
+            max = Math.max(max, cents);
+            sellerTotals.merge(p.getSeller(), cents, Long::sum);
+            selectedIds.add(p.getId());
+        }
+
+        assertEquals(count, summary.getCount());
+        assertEquals(total, summary.getTotalCents());
+        assertEquals(count == 0 ? 0 : min, summary.getMinPriceCents());
+        assertEquals(count == 0 ? 0 : max, summary.getMaxPriceCents());
+        assertEquals(sellerTotals, summary.getSellerTotalsCents());
+        assertEquals(count, summary.getSelectedProducts().size());
+        for (int id : selectedIds) assertTrue(summary.contains(catalog.get(id)));
+    }
+}